@@ -1,3 +1,9 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Scanner;
+
 /**
  * Program provides shortest paths visualization (optional)
  * author Melih Efe Sonmez
@@ -10,11 +16,16 @@ public class Main {
      * Parses input files, builds map and cost structures, finds shortest paths
      * to each objective, and outputs results to a file and optionally a drawing.
      *
-     * @param args Command-line arguments: [-draw] <mapFile> <costFile> <objectivesFile>
+     * In multi-agent mode each line of the objectives file is the objective list of one knight.
+     * In greedy mode the knight always moves to the closest uncollected coin instead of the file order.
+     *
+     * @param args Command-line arguments: [-draw] [-multi] [-greedy] <mapFile> <costFile> <objectivesFile>
      */
     public static void main(String[] args) {
 
         boolean draw = false;
+        boolean multiAgent = false;
+        boolean greedy = false;
         String mapDataFile = "";
         String travelCostsFile = "";
         String objectivesFile = "";
@@ -23,6 +34,10 @@ public class Main {
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("-draw")) {
                 draw = true;
+            } else if (args[i].equals("-multi")) {
+                multiAgent = true;
+            } else if (args[i].equals("-greedy")) {
+                greedy = true;
             } else if (mapDataFile.isEmpty()) {
                 mapDataFile = args[i];
             } else if (travelCostsFile.isEmpty()) {
@@ -32,6 +47,12 @@ public class Main {
             }
         }
 
+        // multi-agent mode has no drawing or greedy collection
+        if (multiAgent && (draw || greedy)) {
+            System.err.println("Error: -multi cannot be combined with -draw or -greedy.");
+            return;
+        }
+
         try {
             ArrayList<ArrayList<Tile>> grid = new ArrayList<>();
             int cols;
@@ -148,6 +169,12 @@ public class Main {
             }
             costScanner.close();
 
+            // run all knights together in multi-agent mode
+            if (multiAgent) {
+                runMultiAgent(grid, travelCosts, cols, rows, objectivesFile);
+                return;
+            }
+
             // read objectives
             ArrayList<int[]> objectives = new ArrayList<>();
 
@@ -219,17 +246,39 @@ public class Main {
                 allVisitedTiles.add(grid.get(currentRow).get(currentCol));
             }
 
+            // uncollected coins for greedy mode
+            ArrayList<int[]> remaining = new ArrayList<>(objectives.subList(1, objectives.size()));
+
             // process each objective
             for (int i = 1; i < objectives.size(); i++) {
                 int[] objective = objectives.get(i);
+                int objectiveNum = i;
+                ArrayList<Tile> path;
+
+                if (greedy) {
+                    // find path to the closest uncollected coin
+                    PathFinder.NearestTarget nearest = pathFinder.findNearestTarget(currentRow, currentCol, remaining);
+
+                    if (nearest == null) {
+                        for (int[] obj : remaining) {
+                            output.println("Objective " + objectives.indexOf(obj) + " cannot be reached!");
+                        }
+                        break;
+                    }
+
+                    objective = remaining.remove(nearest.getTargetIndex());
+                    objectiveNum = objectives.indexOf(objective);
+                    path = nearest.getPath();
+                } else {
+                    // find path to objective
+                    path = pathFinder.findShortestPath(currentRow, currentCol, objective[0], objective[1]);
+                }
+
                 int targetCol = objective[0];
                 int targetRow = objective[1];
 
-                // find path to objective
-                ArrayList<Tile> path = pathFinder.findShortestPath(currentRow, currentCol, targetCol, targetRow);
-
                 if (path == null || path.isEmpty()) {
-                    output.println("Objective " + i + " cannot be reached!");
+                    output.println("Objective " + objectiveNum + " cannot be reached!");
                     continue;
                 }
 
@@ -286,12 +335,12 @@ public class Main {
                 }
 
                 totalSteps += stepCount;
-                output.println("Objective " + i + " reached!");
+                output.println("Objective " + objectiveNum + " reached!");
 
                 allVisitedTiles.clear(); // clear red dots
 
                 // mark objective as collected (deactivated coin)
-                objectives.get(i)[2] = 0;
+                objective[2] = 0;
 
                 // update current position
                 currentRow = targetRow;
@@ -332,6 +381,58 @@ public class Main {
     }
 
 
+    /**
+     * Reads one objective list per knight and runs them together with the multi-agent engine.
+     * Per-tick throughput is written to the output file.
+     *
+     * @param grid The 2D grid of tiles.
+     * @param travelCosts Travel costs in each direction for each tile.
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     * @param objectivesFile File with one line of column-row pairs per knight.
+     * @throws Exception If the objectives file is malformed or a file cannot be accessed.
+     */
+    private static void runMultiAgent(ArrayList<ArrayList<Tile>> grid, ArrayList<ArrayList<ArrayList<Double>>> travelCosts,
+                                      int cols, int rows, String objectivesFile) throws Exception {
+        // read objectives of each knight
+        ArrayList<ArrayList<int[]>> agentObjectives = new ArrayList<>();
+
+        Scanner objScanner = new Scanner(new File(objectivesFile));
+
+        while (objScanner.hasNextLine()) {
+            String line = objScanner.nextLine().trim();
+            if (line.isEmpty()) continue;
+            String[] parts = line.split("\\s+");
+
+            if (parts.length % 2 != 0) {
+                throw new IllegalArgumentException("Objectives of knight " + (agentObjectives.size() + 1)
+                        + " must be column-row pairs: " + line);
+            }
+
+            ArrayList<int[]> objectives = new ArrayList<>();
+            for (int i = 0; i + 1 < parts.length; i += 2) {
+                objectives.add(new int[]{Integer.parseInt(parts[i]), Integer.parseInt(parts[i + 1])});
+            }
+            agentObjectives.add(objectives);
+        }
+
+        objScanner.close();
+
+        // create output directory if it doesn't exist
+        File outputDir = new File("out");
+        if (!outputDir.exists()) {
+            outputDir.mkdirs();
+        }
+
+        PrintWriter output = new PrintWriter(new FileWriter("out/output.txt"));
+
+        PathFinder pathFinder = new PathFinder(grid, travelCosts, cols, rows);
+        MultiAgentEngine engine = new MultiAgentEngine(pathFinder, agentObjectives, cols, rows);
+        engine.run(output);
+
+        output.close();
+    }
+
     /**
      * Draws the entire grid.
      *
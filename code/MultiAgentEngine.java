@@ -0,0 +1,277 @@
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+/**
+ * The class advances many knights on the same map in discrete ticks.
+ * Every knight has its own objective list, while the map data and the path finder
+ * are shared read-only and a single path cache serves all knights.
+ * Path queries requested in the same tick are deduplicated and computed in parallel.
+ */
+public class MultiAgentEngine {
+
+    // DATA FIELDS
+    private static final int MAX_CACHED_PATHS = 1 << 16; // hard limit, further paths are handed out uncached
+    private static final int[] NO_PATH = new int[0]; // cached marker for unreachable objectives
+    private PathFinder pathFinder;
+    private int cols;
+    private int rows;
+    private HashMap<Long, int[]> pathCache; // (source, target) -> tile indices of the path
+
+    // per-agent state, kept in flat arrays (tile index = row * cols + column)
+    private int agentCount;
+    private int[][] agentObjectives; // tile indices of the objectives of each agent
+    private int[] agentPosition; // current tile index
+    private int[] agentNextObjective; // index into the agent's objective list
+    private int[][] agentPath; // current path (shared with the cache), null if it must be planned
+    private int[] agentPathStep; // index of the current tile in the current path
+
+    // CONSTRUCTOR
+    /**
+     * Constructs a MultiAgentEngine for the given agents.
+     * The first objective of each agent is its starting position.
+     *
+     * @param pathFinder  Shared path finder of the map.
+     * @param objectives  Objective list of each agent as {column, row} pairs.
+     * @param cols        Number of columns in the grid.
+     * @param rows        Number of rows in the grid.
+     */
+    public MultiAgentEngine(PathFinder pathFinder, ArrayList<ArrayList<int[]>> objectives, int cols, int rows) {
+        this.pathFinder = pathFinder;
+        this.cols = cols;
+        this.rows = rows;
+        this.pathCache = new HashMap<>();
+
+        this.agentCount = objectives.size();
+        this.agentObjectives = new int[agentCount][];
+        this.agentPosition = new int[agentCount];
+        this.agentNextObjective = new int[agentCount];
+        this.agentPath = new int[agentCount][];
+        this.agentPathStep = new int[agentCount];
+
+        for (int a = 0; a < agentCount; a++) {
+            ArrayList<int[]> list = objectives.get(a);
+            agentObjectives[a] = new int[list.size()];
+            for (int k = 0; k < list.size(); k++) {
+                agentObjectives[a][k] = tileIndex(list.get(k)[0], list.get(k)[1]);
+            }
+            agentPosition[a] = (list.isEmpty()) ? -1 : agentObjectives[a][0];
+            agentNextObjective[a] = 1; // objective 0 is the starting position
+        }
+    }
+
+
+    // OTHER METHODS
+
+    /**
+     * Runs ticks until every agent has finished its objective list
+     * and writes the per-tick throughput to the output.
+     * Invalid starting positions and unreachable objectives are reported as they are found.
+     *
+     * @param output  Writer for the tick report.
+     */
+    public void run(PrintWriter output) {
+        int tick = 0;
+        long totalMoves = 0;
+        long totalNanos = 0;
+
+        // report agents that cannot start
+        for (int a = 0; a < agentCount; a++) {
+            if (agentObjectives[a].length > 0 && agentPosition[a] == -1) {
+                output.println("Knight " + (a + 1) + ": starting position is out of bounds!");
+            }
+        }
+
+        while (hasActiveAgents()) {
+            long start = System.nanoTime();
+            int planned = planPaths();
+            int moves = moveAgents(output);
+            long elapsed = System.nanoTime() - start;
+
+            tick++;
+            totalMoves += moves;
+            totalNanos += elapsed;
+
+            output.println("Tick " + tick + ": " + moves + " moves, " + planned + " paths planned, "
+                    + String.format("%.2f", movesPerSecond(moves, elapsed)) + " agent-moves/sec.");
+        }
+
+        output.print("Total Ticks: " + tick + ", Total Moves: " + totalMoves + ", Average: "
+                + String.format("%.2f", movesPerSecond(totalMoves, totalNanos)) + " agent-moves/sec.");
+    }
+
+    /**
+     * Plans a path for every agent that needs one.
+     * Missing (source, target) pairs are collected once and computed in parallel,
+     * then every waiting agent takes its path from the cache or from this tick's results.
+     * New paths are cached only while the cache is below its limit; a full cache is reset
+     * before the next tick's queries are collected.
+     *
+     * @return Number of paths computed in this tick.
+     */
+    private int planPaths() {
+        if (pathCache.size() >= MAX_CACHED_PATHS) {
+            pathCache.clear(); // agents keep their own references to the old paths
+        }
+
+        // collect distinct queries that are not in the cache yet
+        HashSet<Long> pending = new HashSet<>();
+        for (int a = 0; a < agentCount; a++) {
+            if (needsPath(a)) {
+                long key = pathKey(agentPosition[a], agentObjectives[a][agentNextObjective[a]]);
+                if (!pathCache.containsKey(key)) {
+                    pending.add(key);
+                }
+            }
+        }
+
+        // batch the queries across cores
+        Long[] keys = pending.toArray(new Long[0]);
+        int[][] results = new int[keys.length][];
+        IntStream.range(0, keys.length).parallel().forEach(k -> results[k] = computePath(keys[k]));
+
+        HashMap<Long, int[]> computed = new HashMap<>();
+        for (int k = 0; k < keys.length; k++) {
+            computed.put(keys[k], results[k]);
+            if (pathCache.size() < MAX_CACHED_PATHS) {
+                pathCache.put(keys[k], results[k]);
+            }
+        }
+
+        // assign paths
+        for (int a = 0; a < agentCount; a++) {
+            if (needsPath(a)) {
+                long key = pathKey(agentPosition[a], agentObjectives[a][agentNextObjective[a]]);
+                int[] path = pathCache.get(key);
+                agentPath[a] = (path != null) ? path : computed.get(key);
+                agentPathStep[a] = 0;
+            }
+        }
+
+        return keys.length;
+    }
+
+    /**
+     * Moves every agent with a path one tile forward.
+     * Agents that reach their objective, or cannot reach it, continue with the next one.
+     *
+     * @param output  Writer for unreachable objective messages.
+     * @return Number of moves made in this tick.
+     */
+    private int moveAgents(PrintWriter output) {
+        int moves = 0;
+        for (int a = 0; a < agentCount; a++) {
+            int[] path = agentPath[a];
+            if (path == null) {
+                continue;
+            }
+
+            if (path.length == 0) {
+                output.println("Knight " + (a + 1) + ": Objective " + agentNextObjective[a] + " cannot be reached!");
+            }
+
+            // move to the next tile of the path
+            if (agentPathStep[a] < path.length - 1) {
+                agentPathStep[a]++;
+                agentPosition[a] = path[agentPathStep[a]];
+                moves++;
+            }
+
+            // objective reached or unreachable
+            if (agentPathStep[a] >= path.length - 1) {
+                agentNextObjective[a]++;
+                agentPath[a] = null;
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Computes the path for a (source, target) key with the shared path finder.
+     *
+     * @param key  Key built by {@link #pathKey(int, int)}.
+     * @return Tile indices of the path, or an empty array if no path exists.
+     */
+    private int[] computePath(long key) {
+        int source = (int) (key >>> 32);
+        int target = (int) key;
+        if (source == -1 || target == -1) {
+            return NO_PATH;
+        }
+
+        ArrayList<Tile> path = pathFinder.findShortestPath(source / cols, source % cols, target % cols, target / cols);
+        if (path == null || path.isEmpty()) {
+            return NO_PATH;
+        }
+
+        int[] indices = new int[path.size()];
+        for (int i = 0; i < path.size(); i++) {
+            indices[i] = path.get(i).getRow() * cols + path.get(i).getColumn();
+        }
+        return indices;
+    }
+
+    /**
+     * Checks whether an agent is waiting for a path to its next objective.
+     *
+     * @param agent  Index of the agent.
+     * @return {@code true} if the agent has objectives left but no path.
+     */
+    private boolean needsPath(int agent) {
+        return agentPath[agent] == null && agentPosition[agent] != -1
+                && agentNextObjective[agent] < agentObjectives[agent].length;
+    }
+
+    /**
+     * Checks whether any agent still has objectives left.
+     *
+     * @return {@code true} if at least one agent is not finished.
+     */
+    private boolean hasActiveAgents() {
+        for (int a = 0; a < agentCount; a++) {
+            if (agentPath[a] != null || needsPath(a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts a grid position to a tile index.
+     *
+     * @param col  Column index of the tile.
+     * @param row  Row index of the tile.
+     * @return Tile index, or -1 if the position is out of bounds.
+     */
+    private int tileIndex(int col, int row) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return -1;
+        }
+        return row * cols + col;
+    }
+
+    /**
+     * Builds the cache key of a path query.
+     *
+     * @param source  Tile index of the source.
+     * @param target  Tile index of the target.
+     * @return Source and target packed into a single value.
+     */
+    private static long pathKey(int source, int target) {
+        return ((long) source << 32) | (target & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Calculates the throughput of a number of moves.
+     *
+     * @param moves  Number of agent moves.
+     * @param nanos  Elapsed time in nanoseconds.
+     * @return Agent moves per second.
+     */
+    private static double movesPerSecond(long moves, long nanos) {
+        return (nanos == 0) ? 0.0 : moves * 1e9 / nanos;
+    }
+
+}
@@ -56,6 +56,72 @@ public class PathFinder {
             return null;
         }
 
+        // seed the single target and search
+        long[] targetBits = new long[(rows * cols + 63) >>> 6];
+        setBit(targetBits, targetRow * cols + targetCol);
+
+        return search(sourceRow, sourceCol, targetBits);
+    }
+
+
+    /**
+     * Finds the closest of several targets from a source tile with a single search.
+     * Targets are seeded into a lookup bitmap and Dijkstra's algorithm stops at the
+     * first target tile that is settled, so each query costs one bounded search.
+     *
+     * @param sourceRow  Row index of the source tile.
+     * @param sourceCol  Column index of the source tile.
+     * @param targets    Candidate targets as {column, row, ...} arrays.
+     * @return The closest reachable target and its path, or {@code null} if no target can be reached.
+     */
+    public NearestTarget findNearestTarget(int sourceRow, int sourceCol, ArrayList<int[]> targets) {
+        // check if source is out of bounds or impassable
+        if (!isValidTile(sourceRow, sourceCol) || !grid.get(sourceRow).get(sourceCol).getIsPassable()) {
+            return null;
+        }
+
+        // seed valid and passable targets into the bitmap
+        long[] targetBits = new long[(rows * cols + 63) >>> 6];
+        boolean seeded = false;
+        for (int[] target : targets) {
+            int col = target[0];
+            int row = target[1];
+            if (isValidTile(row, col) && grid.get(row).get(col).getIsPassable()) {
+                setBit(targetBits, row * cols + col);
+                seeded = true;
+            }
+        }
+
+        if (!seeded) {
+            return null;
+        }
+
+        ArrayList<Tile> path = search(sourceRow, sourceCol, targetBits);
+        if (path == null) {
+            return null;
+        }
+
+        // find which target was settled
+        Tile reached = path.get(path.size() - 1);
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i)[0] == reached.getColumn() && targets.get(i)[1] == reached.getRow()) {
+                return new NearestTarget(i, path);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Runs Dijkstra's algorithm from a source tile until the first target tile is settled.
+     *
+     * @param sourceRow   Row index of the source tile.
+     * @param sourceCol   Column index of the source tile.
+     * @param targetBits  Bitmap of target tiles, indexed by {@code row * cols + column}.
+     * @return A list of {@code Tile} objects from the source to the nearest target, or {@code null} if none is reachable.
+     */
+    private ArrayList<Tile> search(int sourceRow, int sourceCol, long[] targetBits) {
         // create distance and visited arrays
         double[][] distances = new double[rows][cols];
         boolean[][] visited = new boolean[rows][cols];
@@ -98,9 +164,9 @@ public class PathFinder {
             // mark as visited
             visited[minRow][minCol] = true;
 
-            // if target is reached and return the path
-            if (minRow == targetRow && minCol == targetCol) {
-                return reconstructPath(previous, targetTile);
+            // if a target is reached return the path
+            if (isBitSet(targetBits, minRow * cols + minCol)) {
+                return reconstructPath(previous, grid.get(minRow).get(minCol));
             }
 
             // check all adjacent tiles
@@ -185,4 +251,65 @@ public class PathFinder {
         return path;
     }
 
+
+    /**
+     * Sets the bit of a tile index in a bitmap.
+     *
+     * @param bits   Bitmap to modify.
+     * @param index  Tile index to set.
+     */
+    private static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+
+    /**
+     * Checks whether the bit of a tile index is set in a bitmap.
+     *
+     * @param bits   Bitmap to check.
+     * @param index  Tile index to check.
+     * @return {@code true} if the bit is set, otherwise {@code false}.
+     */
+    private static boolean isBitSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+
+    /**
+     * Result of a nearest target query: the reached target and the path to it.
+     */
+    public static class NearestTarget {
+
+        // DATA FIELDS
+        private int targetIndex;
+        private ArrayList<Tile> path;
+
+        // CONSTRUCTOR
+        /**
+         * Constructs a result for a reached target.
+         *
+         * @param targetIndex  Index of the reached target in the queried list.
+         * @param path         Path from the source to the target.
+         */
+        public NearestTarget(int targetIndex, ArrayList<Tile> path) {
+            this.targetIndex = targetIndex;
+            this.path = path;
+        }
+
+        // GETTERS
+        /**
+         * Gets the index of the reached target in the queried list.
+         *
+         * @return Target index.
+         */
+        public int getTargetIndex() {return targetIndex;}
+        /**
+         * Gets the path from the source to the target.
+         *
+         * @return List of tiles, starting at the source and ending at the target.
+         */
+        public ArrayList<Tile> getPath() {return path;}
+
+    }
+
 }